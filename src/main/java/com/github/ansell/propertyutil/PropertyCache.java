@@ -0,0 +1,234 @@
+/**
+ * 
+ */
+package com.github.ansell.propertyutil;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A property cache keyed by interned {@link String} keys that can be probed
+ * using any {@link CharSequence}, or a composite of prefix, integer index and
+ * suffix, without materialising a {@link String} for the lookup.
+ * <p>
+ * Reads are lock free and do not allocate. Writes are synchronized, as they
+ * only occur after a cache miss, which already requires a property lookup.
+ *
+ * @author Peter Ansell p_ansell@yahoo.com
+ */
+final class PropertyCache {
+
+	/**
+	 * An immutable chained entry in the cache.
+	 */
+	private static final class Entry {
+		private final int hash;
+		private final String key;
+		private final String value;
+		private final Entry next;
+
+		private Entry(final int hash, final String key, final String value, final Entry next) {
+			this.hash = hash;
+			this.key = key;
+			this.value = value;
+			this.next = next;
+		}
+	}
+
+	/**
+	 * The fixed number of buckets, sized so that the table never needs to be
+	 * resized before the cache is cleared.
+	 */
+	private final int tableSize;
+
+	/**
+	 * The current table, replaced wholesale when the cache is cleared.
+	 */
+	private volatile AtomicReferenceArray<Entry> table;
+
+	/**
+	 * The number of entries in the current table, guarded by this.
+	 */
+	private volatile int size;
+
+	/**
+	 * @param maximumSize
+	 *            The expected maximum number of entries before the cache is
+	 *            cleared.
+	 */
+	PropertyCache(final int maximumSize) {
+		int buckets = 1;
+		while (buckets < (maximumSize / 3) * 4 + 1) {
+			buckets <<= 1;
+		}
+		this.tableSize = buckets;
+		this.table = new AtomicReferenceArray<>(buckets);
+	}
+
+	/**
+	 * @return The number of entries in the cache.
+	 */
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * Removes all entries from the cache.
+	 */
+	synchronized void clear() {
+		this.table = new AtomicReferenceArray<>(this.tableSize);
+		this.size = 0;
+	}
+
+	/**
+	 * @param key
+	 *            The key to look for.
+	 * @return The cached value for the key, or null if it is not cached.
+	 */
+	String get(final CharSequence key) {
+		final int hash = key instanceof String ? key.hashCode() : hash(0, key);
+		final AtomicReferenceArray<Entry> currentTable = this.table;
+		for (Entry e = currentTable.get(indexFor(hash, currentTable.length())); e != null; e = e.next) {
+			if (e.hash == hash
+					&& (e.key == key || e.key.length() == key.length() && contentEquals(e.key, 0, key))) {
+				return e.value;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @param prefix
+	 *            The characters before the index in the key.
+	 * @param index
+	 *            The integer, in decimal form, between the prefix and suffix in
+	 *            the key.
+	 * @param suffix
+	 *            The characters after the index in the key.
+	 * @return The cached value for the composite key, or null if it is not
+	 *         cached.
+	 */
+	String get(final CharSequence prefix, final int index, final CharSequence suffix) {
+		final int indexLength = stringSize(index);
+		final int keyLength = prefix.length() + indexLength + suffix.length();
+		final int hash = hash(hash(hash(0, prefix), index), suffix);
+		final AtomicReferenceArray<Entry> currentTable = this.table;
+		for (Entry e = currentTable.get(indexFor(hash, currentTable.length())); e != null; e = e.next) {
+			if (e.hash == hash && e.key.length() == keyLength && contentEquals(e.key, 0, prefix)
+					&& indexEquals(e.key, prefix.length() + indexLength, index)
+					&& contentEquals(e.key, prefix.length() + indexLength, suffix)) {
+				return e.value;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Adds the value to the cache if there is no value already cached for the
+	 * key.
+	 *
+	 * @param key
+	 *            The key to cache the value for.
+	 * @param value
+	 *            The value to cache.
+	 * @return The value that is cached for the key after this call.
+	 */
+	synchronized String putIfAbsent(final String key, final String value) {
+		final String existing = get(key);
+		if (existing != null) {
+			return existing;
+		}
+		final int hash = key.hashCode();
+		final AtomicReferenceArray<Entry> currentTable = this.table;
+		final int bucket = indexFor(hash, currentTable.length());
+		currentTable.set(bucket, new Entry(hash, key.intern(), value, currentTable.get(bucket)));
+		this.size++;
+		return value;
+	}
+
+	private static int indexFor(final int hash, final int length) {
+		return (hash ^ (hash >>> 16)) & (length - 1);
+	}
+
+	/**
+	 * Continues a {@link String#hashCode()} computation over the given
+	 * characters.
+	 */
+	private static int hash(int hash, final CharSequence chars) {
+		final int length = chars.length();
+		for (int i = 0; i < length; i++) {
+			hash = 31 * hash + chars.charAt(i);
+		}
+		return hash;
+	}
+
+	/**
+	 * Continues a {@link String#hashCode()} computation over the decimal form
+	 * of the given integer, as produced by {@link Integer#toString(int)}.
+	 */
+	private static int hash(int hash, final int index) {
+		long value = index;
+		if (value < 0) {
+			hash = 31 * hash + '-';
+			value = -value;
+		}
+		long divisor = 1;
+		while (divisor * 10 <= value) {
+			divisor *= 10;
+		}
+		for (; divisor > 0; divisor /= 10) {
+			hash = 31 * hash + (char) ('0' + (value / divisor) % 10);
+		}
+		return hash;
+	}
+
+	/**
+	 * @return The number of characters in the decimal form of the given
+	 *         integer, as produced by {@link Integer#toString(int)}.
+	 */
+	private static int stringSize(final int index) {
+		long value = index;
+		int result = 1;
+		if (value < 0) {
+			result++;
+			value = -value;
+		}
+		while (value >= 10) {
+			value /= 10;
+			result++;
+		}
+		return result;
+	}
+
+	/**
+	 * @return True if the key contains the given characters starting at the
+	 *         offset.
+	 */
+	private static boolean contentEquals(final String key, final int offset, final CharSequence chars) {
+		final int length = chars.length();
+		if (offset + length > key.length()) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (key.charAt(offset + i) != chars.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return True if the key contains the decimal form of the given integer
+	 *         ending immediately before the given offset.
+	 */
+	private static boolean indexEquals(final String key, final int end, final int index) {
+		long value = index;
+		int position = end - 1;
+		do {
+			if (key.charAt(position--) != (char) ('0' + Math.abs(value % 10))) {
+				return false;
+			}
+			value /= 10;
+		} while (value != 0);
+		return index >= 0 || key.charAt(position) == '-';
+	}
+}
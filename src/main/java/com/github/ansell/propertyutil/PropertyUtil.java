@@ -14,8 +14,6 @@ import java.util.MissingResourceException;
 import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.ResourceBundle.Control;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,7 +61,7 @@ public final class PropertyUtil {
 	 * Internal property cache, used if and when users indicate that they want
 	 * to use the cache.
 	 */
-	private final ConcurrentMap<String, String> cache = new ConcurrentHashMap<String, String>();
+	private final PropertyCache cache = new PropertyCache(MAX_CACHE_SIZE);
 
 	public PropertyUtil(final String bundleName) {
 		this(bundleName, "");
@@ -117,33 +115,134 @@ public final class PropertyUtil {
 	 *         null and the key was not found.
 	 */
 	public String get(final String key, final String defaultValue) {
+		final String cached = this.cache.get(key);
+		if (cached != null) {
+			return cached;
+		}
 
 		if (this.cache.size() > MAX_CACHE_SIZE) {
 			this.cache.clear();
 		}
 
-		return this.cache.computeIfAbsent(key, k -> {
-			Optional<String> result = Optional.ofNullable(System.getProperty(k));
+		Optional<String> result = Optional.ofNullable(System.getProperty(key));
 
-			if (!result.isPresent() && this.bundle != null) {
-				try {
-					result = Optional.ofNullable(this.bundle.getString(k));
-				} catch (final MissingResourceException e) {
-					// Do nothing, will use default
-				}
+		if (!result.isPresent() && this.bundle != null) {
+			try {
+				result = Optional.ofNullable(this.bundle.getString(key));
+			} catch (final MissingResourceException e) {
+				// Do nothing, will use default
 			}
+		}
 
-			// if the property didn't exist, replace it with the default value
-			if (!result.isPresent()) {
-				result = Optional.ofNullable(defaultValue);
-			}
+		// if the property didn't exist, replace it with the default value
+		if (!result.isPresent()) {
+			result = Optional.ofNullable(defaultValue);
+		}
 
-			if (LOGGER.isTraceEnabled()) {
-				LOGGER.trace("Returning property value: <{}>=<{}> (default=<{}>)", k, result.get(), defaultValue);
-			}
+		if (LOGGER.isTraceEnabled()) {
+			LOGGER.trace("Returning property value: <{}>=<{}> (default=<{}>)", key, result.orElse(null),
+					defaultValue);
+		}
+
+		if (!result.isPresent()) {
+			return null;
+		}
+
+		return this.cache.putIfAbsent(key, result.get());
+	}
+
+	/**
+	 * Checks for the key first in the system vm properties, then in the
+	 * localisation properties file, then returns null if the key was not found.
+	 * <p>
+	 * Keys that have already been cached are found without creating a
+	 * {@link String} from the given key.
+	 * 
+	 * @param key
+	 *            The key to check for first in system vm properties and then in
+	 *            the localisation properties file
+	 * @return the string matching the key, or null if the key was not found.
+	 */
+	public String get(final CharSequence key) {
+		return get(key, null);
+	}
+
+	/**
+	 * Checks for the key first in the system vm properties, then in the
+	 * localisation properties file, then uses the defaultValue if the location
+	 * is still unknown.
+	 * <p>
+	 * Keys that have already been cached are found without creating a
+	 * {@link String} from the given key.
+	 * 
+	 * @param key
+	 *            The key to check for first in system vm properties and then in
+	 *            the localisation properties file
+	 * @param defaultValue
+	 *            The value to return if the key does not match any configured
+	 *            value. May be null.
+	 * @return the string matching the key, or null if the default value was
+	 *         null and the key was not found.
+	 */
+	public String get(final CharSequence key, final String defaultValue) {
+		final String cached = this.cache.get(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		return get(key.toString(), defaultValue);
+	}
+
+	/**
+	 * Checks for the key formed by concatenating the prefix, the decimal form
+	 * of the index, and the suffix, first in the system vm properties, then in
+	 * the localisation properties file, then returns null if the key was not
+	 * found.
+	 * <p>
+	 * Keys that have already been cached are found without creating a
+	 * {@link String} for the concatenated key.
+	 * 
+	 * @param prefix
+	 *            The characters before the index in the key
+	 * @param index
+	 *            The number to insert between the prefix and suffix in the key
+	 * @param suffix
+	 *            The characters after the index in the key
+	 * @return the string matching the key, or null if the key was not found.
+	 */
+	public String get(final CharSequence prefix, final int index, final CharSequence suffix) {
+		return get(prefix, index, suffix, null);
+	}
+
+	/**
+	 * Checks for the key formed by concatenating the prefix, the decimal form
+	 * of the index, and the suffix, first in the system vm properties, then in
+	 * the localisation properties file, then uses the defaultValue if the
+	 * location is still unknown.
+	 * <p>
+	 * Keys that have already been cached are found without creating a
+	 * {@link String} for the concatenated key.
+	 * 
+	 * @param prefix
+	 *            The characters before the index in the key
+	 * @param index
+	 *            The number to insert between the prefix and suffix in the key
+	 * @param suffix
+	 *            The characters after the index in the key
+	 * @param defaultValue
+	 *            The value to return if the key does not match any configured
+	 *            value. May be null.
+	 * @return the string matching the key, or null if the default value was
+	 *         null and the key was not found.
+	 */
+	public String get(final CharSequence prefix, final int index, final CharSequence suffix,
+			final String defaultValue) {
+		final String cached = this.cache.get(prefix, index, suffix);
+		if (cached != null) {
+			return cached;
+		}
 
-			return result.orElse(null);
-		});
+		return get(new StringBuilder(prefix).append(index).append(suffix).toString(), defaultValue);
 	}
 
 	private static ResourceBundle getBundle(String bundleName, String userSubdirectory) {
@@ -0,0 +1,90 @@
+/**
+ * 
+ */
+package com.github.ansell.propertyutil.test;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.ansell.propertyutil.PropertyUtil;
+
+/**
+ * JMH benchmark for cached PropertyUtil lookups using dynamically built keys.
+ * <p>
+ * Run the main method, or use {@code -prof gc}, to check that the
+ * {@link CharSequence} and composite key lookups report zero
+ * {@code gc.alloc.rate.norm} on cache hits.
+ *
+ * @author Peter Ansell p_ansell@yahoo.com
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyUtilBenchmark {
+
+	private static final String PREFIX = "test.performance.property";
+
+	private static final String SUFFIX = "randomvalue";
+
+	private PropertyUtil propertyUtil;
+
+	private final StringBuilder key = new StringBuilder(64);
+
+	private int value;
+
+	@Setup
+	public void setUp() {
+		this.propertyUtil = new PropertyUtil("com.github.ansell.propertyutil.test.propertyutiltestbundle");
+
+		// populate the cache so that every benchmarked lookup is a hit
+		for (int i = 0; i < 100; i++) {
+			this.propertyUtil.get(PREFIX, i, SUFFIX);
+		}
+	}
+
+	private int nextValue() {
+		this.value = (this.value + 1) % 100;
+		return this.value;
+	}
+
+	@Benchmark
+	public String getConcatenatedString() {
+		return this.propertyUtil.get(PREFIX + nextValue() + SUFFIX);
+	}
+
+	@Benchmark
+	public String getCharSequence() {
+		this.key.setLength(0);
+		this.key.append(PREFIX).append(nextValue()).append(SUFFIX);
+		return this.propertyUtil.get(this.key);
+	}
+
+	@Benchmark
+	public String getComposite() {
+		return this.propertyUtil.get(PREFIX, nextValue(), SUFFIX);
+	}
+
+	public static void main(final String... args) throws RunnerException {
+		final Options options = new OptionsBuilder().include(PropertyUtilBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class).build();
+		new Runner(options).run();
+	}
+}
@@ -145,6 +145,57 @@ public class PropertyUtilTest {
 		assertEquals("default-clear-property-cache-test-property-6", result2);
 	}
 
+	@Test
+	public final void testGetCharSequenceExistsNoDefault() {
+		PropertyUtil testPropertyUtil = this.getTestUtil();
+		final StringBuilder key = new StringBuilder("test.clear.property.cache");
+
+		// First lookup populates the cache and the second finds the cached value
+		assertEquals("Configured property for clearing property cache", testPropertyUtil.get(key));
+		assertEquals("Configured property for clearing property cache", testPropertyUtil.get(key));
+	}
+
+	@Test
+	public final void testGetCharSequenceNotExistsWithDefault() {
+		PropertyUtil testPropertyUtil = this.getTestUtil();
+		final StringBuilder key = new StringBuilder("test.false.property");
+
+		assertNull(testPropertyUtil.get(key));
+		assertEquals("default-clear-property-cache-test-property-7",
+				testPropertyUtil.get(key, "default-clear-property-cache-test-property-7"));
+		assertEquals("default-clear-property-cache-test-property-7", testPropertyUtil.get(key));
+	}
+
+	@Test
+	public final void testGetCompositeExistsNoDefault() {
+		PropertyUtil testPropertyUtil = this.getTestUtil();
+
+		for (int i = 0; i < 3; i++) {
+			for (int value = 0; value < 100; value++) {
+				assertEquals("Test Performance Property " + value,
+						testPropertyUtil.get("test.performance.property", value, "randomvalue"));
+			}
+		}
+		assertEquals("Test Performance Property 42",
+				testPropertyUtil.get(new StringBuilder("test.performance.property42randomvalue")));
+		assertEquals("Test Performance Property 42", testPropertyUtil.get("test.performance.property42randomvalue"));
+	}
+
+	@Test
+	public final void testGetCompositeNotExistsWithDefault() {
+		PropertyUtil testPropertyUtil = this.getTestUtil();
+
+		assertNull(testPropertyUtil.get("test.performance.property", -1, "randomvalue"));
+		assertNull(testPropertyUtil.get("test.performance.property", Integer.MIN_VALUE, "randomvalue"));
+		assertEquals("default-clear-property-cache-test-property-8", testPropertyUtil.get("test.performance.property",
+				Integer.MIN_VALUE, "randomvalue", "default-clear-property-cache-test-property-8"));
+		assertEquals("default-clear-property-cache-test-property-8",
+				testPropertyUtil.get("test.performance.property" + Integer.MIN_VALUE + "randomvalue"));
+		assertEquals("default-clear-property-cache-test-property-8",
+				testPropertyUtil.get("test.performance.property", Integer.MIN_VALUE, "randomvalue"));
+		assertNull(testPropertyUtil.get("test.performance.property", Integer.MAX_VALUE, "randomvalue"));
+	}
+
 	@Test
 	public final void testUserDir() throws Exception {
 		final String originalUserDir = System.setProperty("user.dir", this.testDir.toString());